@@ -1,5 +1,6 @@
 -- ==========================================
 -- GitHub仓库服务 - 数据库初始化脚本
+-- 需要 MySQL 8.0.19+ (upsert 使用 INSERT ... AS new 行别名语法)
 -- ==========================================
 
 -- 1. 创建数据库
@@ -29,6 +30,10 @@ CREATE TABLE `github_repo` (
   `created_at` DATETIME COMMENT 'GitHub仓库创建时间',
   `updated_at` DATETIME COMMENT 'GitHub仓库更新时间',
   `pushed_at` DATETIME COMMENT 'GitHub仓库推送时间',
+  `archived` TINYINT(1) DEFAULT 0 COMMENT '是否已归档 0-否 1-是',
+  `change_rate` TINYINT(3) COMMENT '近期刷新中星标或推送时间发生变化的比例(0-100)',
+  `etag` VARCHAR(255) COMMENT 'GitHub响应ETag',
+  `last_modified` VARCHAR(64) COMMENT 'GitHub响应Last-Modified',
   `cache_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '缓存时间',
   `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '记录创建时间',
   `update_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '记录更新时间',
@@ -40,3 +45,14 @@ CREATE TABLE `github_repo` (
   KEY `idx_create_time` (`create_time`) COMMENT '创建时间索引'
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='GitHub仓库信息表';
 
+
+-- 3. 创建不存在仓库的负缓存表
+DROP TABLE IF EXISTS `github_repo_missing`;
+
+CREATE TABLE `github_repo_missing` (
+  `full_name` VARCHAR(255) NOT NULL COMMENT '仓库全名 (owner/repo, 小写)',
+  `expire_time` DATETIME NOT NULL COMMENT '负缓存过期时间',
+  `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '记录创建时间',
+  PRIMARY KEY (`full_name`),
+  KEY `idx_expire_time` (`expire_time`) COMMENT '过期时间索引'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='GitHub不存在仓库负缓存表';
@@ -0,0 +1,10 @@
+-- ==========================================
+-- GitHub仓库服务 - 升级脚本: 条件请求校验字段
+-- 为已有的github_repo表增加ETag / Last-Modified字段
+-- ==========================================
+
+USE `github_repo_service`;
+
+ALTER TABLE `github_repo`
+  ADD COLUMN `etag` VARCHAR(255) COMMENT 'GitHub响应ETag' AFTER `pushed_at`,
+  ADD COLUMN `last_modified` VARCHAR(64) COMMENT 'GitHub响应Last-Modified' AFTER `etag`;
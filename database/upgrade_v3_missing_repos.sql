@@ -0,0 +1,14 @@
+-- ==========================================
+-- GitHub仓库服务 - 升级脚本: 不存在仓库负缓存
+-- 创建github_repo_missing表, 仅在cache.negative.persist开启时使用
+-- ==========================================
+
+USE `github_repo_service`;
+
+CREATE TABLE IF NOT EXISTS `github_repo_missing` (
+  `full_name` VARCHAR(255) NOT NULL COMMENT '仓库全名 (owner/repo, 小写)',
+  `expire_time` DATETIME NOT NULL COMMENT '负缓存过期时间',
+  `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '记录创建时间',
+  PRIMARY KEY (`full_name`),
+  KEY `idx_expire_time` (`expire_time`) COMMENT '过期时间索引'
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='GitHub不存在仓库负缓存表';
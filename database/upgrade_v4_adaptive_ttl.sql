@@ -0,0 +1,10 @@
+-- ==========================================
+-- GitHub仓库服务 - 升级脚本: 自适应缓存过期时间
+-- 为已有的github_repo表增加归档标记和变化比例字段
+-- ==========================================
+
+USE `github_repo_service`;
+
+ALTER TABLE `github_repo`
+  ADD COLUMN `archived` TINYINT(1) DEFAULT 0 COMMENT '是否已归档 0-否 1-是' AFTER `pushed_at`,
+  ADD COLUMN `change_rate` TINYINT(3) COMMENT '近期刷新中星标或推送时间发生变化的比例(0-100)' AFTER `archived`;